@@ -0,0 +1,142 @@
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is a small latency histogram in the style of HdrHistogram.
+ * Values (nanoseconds) are counted in log-linear buckets: every power of two is split into 32 equal sub-buckets,
+ * so any recorded value is reported within about 3% of what was recorded. That keeps the whole range of a long in
+ * under 2000 buckets.
+ * Recording does not allocate. It costs one atomic bucket increment, two LongAdder updates for the count and sum,
+ * and a compare-and-set on min or max only when the value is a new extreme.
+ * Recording is thread safe. Reading while other threads record gives a close, but not atomic, picture.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS; // 32
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(0);
+
+    /**
+     * Adds one value to the histogram. Negative values are counted as 0.
+     * @param value The value to record, usually a latency in nanoseconds.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.incrementAndGet(bucketOf(value));
+        total.increment();
+        sum.add(value);
+        if (value < min.get()) {
+            min.accumulateAndGet(value, Math::min);
+        }
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Returns how many values have been recorded.
+     * @return The number of recorded values.
+     */
+    public long getCount() {
+        return total.sum();
+    }
+
+    /**
+     * Returns the smallest recorded value, or 0 if nothing has been recorded.
+     * @return The smallest recorded value.
+     */
+    public long getMin() {
+        return getCount() == 0 ? 0 : min.get();
+    }
+
+    /**
+     * Returns the largest recorded value, or 0 if nothing has been recorded.
+     * @return The largest recorded value.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the exact mean of the recorded values, or 0 if nothing has been recorded.
+     * @return The mean of the recorded values.
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * Returns the value at the given percentile. The answer is the top of the bucket holding that value,
+     * capped at the largest value recorded.
+     * @param percentile The percentile to find, from 0 to 100.
+     * @return The value at that percentile, or 0 if nothing has been recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, percentile) / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Clears every recorded value.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+        sum.reset();
+        min.set(Long.MAX_VALUE);
+        max.set(0);
+    }
+
+    /**
+     * Finds the bucket for a value. Values under 32 get a bucket each.
+     * Above that, the highest set bit picks the power of two and the next 5 bits pick the sub-bucket.
+     * @param value The value to place, never negative.
+     * @return The index of the bucket.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value); // at least SUB_BUCKET_BITS
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * The reverse of bucketOf, it gives the largest value that lands in a bucket.
+     * @param bucket The index of the bucket.
+     * @return The largest value counted in that bucket.
+     */
+    private static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        long next = (long) (SUB_BUCKETS + subBucket + 1) << shift;
+        return next - 1 < 0 ? Long.MAX_VALUE : next - 1;
+    }
+}
@@ -0,0 +1,240 @@
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * This class is the metrics layer shared by WordLadder, StreamMedian and TwoDTree.
+ * It keeps named counters, gauges and latency histograms, and can print them all as a JSON snapshot.
+ * Metrics are off unless the program is started with -Ddsa.metrics=true or calls Metrics.setEnabled(true).
+ * While they are off, instrumented code only reads the enabled flag once per operation and skips the rest,
+ * so the cost is one volatile read and a branch.
+ *
+ * Classes look up their counters and timers once into static final fields, then update them directly:
+ * <pre>
+ *     private static final Metrics.Counter NODES = Metrics.counter("example.nodes");
+ *     ...
+ *     if (Metrics.isEnabled()) NODES.add(visited);
+ * </pre>
+ * Counters and timers add up over every instance. Values that belong to one instance, like a heap size or a tree
+ * depth, are gauges: the instance registers them under a name of the caller's choosing, and the snapshot reads them.
+ */
+public class Metrics {
+    private static volatile boolean enabled = Boolean.getBoolean("dsa.metrics");
+
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private static final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * A count that only goes up, like nodes expanded.
+     */
+    public static class Counter {
+        private final LongAdder value = new LongAdder();
+
+        /**
+         * Adds one to the counter.
+         */
+        public void increment() {
+            value.increment();
+        }
+
+        /**
+         * Adds the given amount to the counter.
+         * @param amount The amount to add.
+         */
+        public void add(long amount) {
+            value.add(amount);
+        }
+
+        /**
+         * Returns the current total of the counter.
+         * @return The total so far.
+         */
+        public long get() {
+            return value.sum();
+        }
+    }
+
+    /**
+     * Times an operation into a LatencyHistogram and writes a MetricsEvent for any running flight recording.
+     * When the operation starts, take System.nanoTime() and MetricsEvent.start(), and pass both to record
+     * when it is done. A record costs a second System.nanoTime() and the histogram update. MetricsEvent.start()
+     * only creates an event while a flight recording has that event turned on.
+     */
+    public static class Timer {
+        private final String name;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private Timer(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Records one operation that started at startTime.
+         * @param startTime The System.nanoTime() taken when the operation started.
+         * @param nodes Nodes expanded or visited by the operation, 0 if it does not walk nodes.
+         * @param event The MetricsEvent.start() taken when the operation started, may be null.
+         */
+        public void record(long startTime, long nodes, MetricsEvent event) {
+            histogram.record(System.nanoTime() - startTime);
+            if (event != null) {
+                event.finish(name, nodes);
+            }
+        }
+
+        /**
+         * Returns the histogram of recorded latencies, in nanoseconds.
+         * @return The histogram.
+         */
+        public LatencyHistogram getHistogram() {
+            return histogram;
+        }
+    }
+
+    private Metrics() {
+    }
+
+    /**
+     * Returns true if metrics are being collected.
+     * @return True if metrics are on.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns metrics on or off. Values already collected are kept; use reset to clear them.
+     * @param on True to collect metrics, false to stop.
+     */
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * Returns the counter with the given name, creating it the first time.
+     * @param name The name of the counter, e.g. "wordladder.nodesExpanded".
+     * @return The counter.
+     */
+    public static Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> new Counter());
+    }
+
+    /**
+     * Registers a gauge, a value that is read each time a snapshot is taken, like the size of one heap.
+     * A gauge registered under a name that is already taken replaces the old one.
+     * The registry holds on to the gauge, and so to whatever it reads, until removeGauges is called.
+     * @param name The name of the gauge, e.g. "streammedian.orders.smallerSize".
+     * @param value Reads the current value. It is called, without any locking, on whichever thread takes the
+     *              snapshot, so a gauge over a class that is not thread safe should only be snapshot on the thread
+     *              that updates that instance.
+     */
+    public static void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Removes every gauge whose name starts with the given prefix.
+     * @param prefix The start of the names to remove, e.g. "streammedian.orders.".
+     */
+    public static void removeGauges(String prefix) {
+        gauges.keySet().removeIf(name -> name.startsWith(prefix));
+    }
+
+    /**
+     * Returns the timer with the given name, creating it the first time.
+     * @param name The name of the timer, e.g. "twodtree.searchRange".
+     * @return The timer.
+     */
+    public static Timer timer(String name) {
+        return timers.computeIfAbsent(name, Timer::new);
+    }
+
+    /**
+     * Clears every counter and timer. The metrics themselves stay registered, and gauges keep reading live values.
+     */
+    public static void reset() {
+        for (Counter counter : counters.values()) {
+            counter.value.reset();
+        }
+        for (Timer timer : timers.values()) {
+            timer.histogram.reset();
+        }
+    }
+
+    /**
+     * Builds a JSON snapshot of every metric, with names in sorted order. Latencies are in nanoseconds.
+     * @return The snapshot as a JSON object.
+     */
+    public static String snapshot() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"enabled\": ").append(enabled).append(",\n");
+
+        json.append("  \"counters\": {");
+        appendValues(json, counters, Counter::get);
+        json.append("},\n");
+
+        json.append("  \"gauges\": {");
+        appendValues(json, gauges, LongSupplier::getAsLong);
+        json.append("},\n");
+
+        json.append("  \"timers\": {");
+        String separator = "\n";
+        for (Map.Entry<String, Timer> entry : new TreeMap<>(timers).entrySet()) {
+            LatencyHistogram h = entry.getValue().histogram;
+            json.append(separator).append("    ");
+            appendName(json, entry.getKey());
+            json.append(": {")
+                    .append("\"count\": ").append(h.getCount())
+                    .append(", \"min\": ").append(h.getMin())
+                    .append(", \"mean\": ").append(Math.round(h.getMean()))
+                    .append(", \"p50\": ").append(h.getValueAtPercentile(50))
+                    .append(", \"p90\": ").append(h.getValueAtPercentile(90))
+                    .append(", \"p99\": ").append(h.getValueAtPercentile(99))
+                    .append(", \"p999\": ").append(h.getValueAtPercentile(99.9))
+                    .append(", \"max\": ").append(h.getMax())
+                    .append("}");
+            separator = ",\n";
+        }
+        json.append(separator.equals("\n") ? "}\n" : "\n  }\n");
+        json.append("}");
+        return json.toString();
+    }
+
+    /**
+     * Helper for snapshot, appends "name": value pairs for one kind of metric.
+     */
+    private static <T> void appendValues(StringBuilder json, Map<String, T> metrics,
+                                         ToLongFunction<T> value) {
+        String separator = "\n";
+        for (Map.Entry<String, T> entry : new TreeMap<>(metrics).entrySet()) {
+            json.append(separator).append("    ");
+            appendName(json, entry.getKey());
+            json.append(": ").append(value.applyAsLong(entry.getValue()));
+            separator = ",\n";
+        }
+        if (!separator.equals("\n")) {
+            json.append("\n  ");
+        }
+    }
+
+    /**
+     * Helper for snapshot, appends a metric name as a JSON string, escaping quotes, backslashes and control characters.
+     */
+    private static void appendName(StringBuilder json, String name) {
+        json.append('"');
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,58 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This is the Java Flight Recorder event written for every timed operation while metrics are on.
+ * The event is begun when the operation starts and ended when it finishes, so its start time and duration are the
+ * operation's own. Record with -XX:StartFlightRecording=filename=dsa.jfr and read the events with
+ * "jfr print --events dsa.Operation dsa.jfr" or JDK Mission Control. To keep only slow operations, pass a .jfc
+ * with settings=, whose dsa.Operation entry sets a threshold such as "1 ms".
+ * Unless a flight recording has the event turned on, start returns null after one check without creating an event.
+ */
+@Name("dsa.Operation")
+@Label("DSA Operation")
+@Category("DSA Projects")
+@Description("One timed operation on WordLadder, StreamMedian or TwoDTree")
+public class MetricsEvent extends Event {
+    // Null when this JVM has no flight recorder.
+    private static final EventType TYPE = FlightRecorder.isAvailable() ? EventType.getEventType(MetricsEvent.class) : null;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Nodes")
+    @Description("Nodes expanded or visited by the operation, 0 when it does not walk nodes")
+    long nodes;
+
+    /**
+     * Begins an event for an operation that is starting now, if a recording wants it.
+     * @return The begun event, or null if no running recording has dsa.Operation turned on.
+     */
+    public static MetricsEvent start() {
+        if (TYPE == null || !TYPE.isEnabled()) {
+            return null;
+        }
+        MetricsEvent event = new MetricsEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it, unless the recording's threshold filters it out.
+     * @param operation The name of the operation, e.g. "twodtree.searchRange".
+     * @param nodes Nodes expanded or visited by the operation.
+     */
+    void finish(String operation, long nodes) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.nodes = nodes;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * This class exercises the Metrics and LatencyHistogram classes.
+ *
+ * Output from these tests should be:
+ * Histogram of 1..1000:
+ * count 1000 min 1 max 1000 mean 500.5
+ * p50 503 p90 911 p99 991 p100 1000
+ *
+ * {
+ *   "enabled": true,
+ *   "counters": {
+ *     "test.counter": 5
+ *   },
+ *   "gauges": {
+ *     "test.\"quoted\" \\ name": 7,
+ *     "test.gauge": 42
+ *   },
+ *   "timers": {
+ *     "test.timer": {"count": 3, "min": 10, "mean": 20, "p50": 20, "p90": 30, "p99": 30, "p999": 30, "max": 30}
+ *   }
+ * }
+ */
+public class TestMetrics {
+    public static void main(String[] args) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        System.out.println("Histogram of 1..1000:");
+        System.out.println("count " + histogram.getCount() + " min " + histogram.getMin()
+                + " max " + histogram.getMax() + " mean " + histogram.getMean());
+        System.out.println("p50 " + histogram.getValueAtPercentile(50) + " p90 " + histogram.getValueAtPercentile(90)
+                + " p99 " + histogram.getValueAtPercentile(99) + " p100 " + histogram.getValueAtPercentile(100));
+        System.out.println();
+
+        // The switch is checked by the instrumented classes, see their test programs for runs with Metrics off.
+        Metrics.setEnabled(true);
+        Metrics.Counter counter = Metrics.counter("test.counter");
+        Metrics.Timer timer = Metrics.timer("test.timer");
+        for (int i = 0; i < 5; i++) {
+            counter.increment();
+        }
+        Metrics.gauge("test.gauge", () -> 42);
+        // Names are escaped, so the snapshot stays valid JSON.
+        Metrics.gauge("test.\"quoted\" \\ name", () -> 7);
+        timer.getHistogram().record(10);
+        timer.getHistogram().record(20);
+        timer.getHistogram().record(30);
+        System.out.println(Metrics.snapshot());
+    }
+}
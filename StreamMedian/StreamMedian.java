@@ -4,11 +4,17 @@ import static java.util.Comparator.reverseOrder;
 /**
  * This class implements Priority Queues as both min-heaps and max-heaps. The min-heap will store larger half of values and the max-heap will store the lower values.
  * We use these Heaps to find the median value of everything passed into them.
+ * Compile with ../Metrics on the source path, see README.md.
  * @author Brandon Murry
  */
 public class StreamMedian {
+    // Metrics for insert, only updated while Metrics are enabled.
+    private static final Metrics.Timer INSERT_TIMER = Metrics.timer("streammedian.insert");
+    private static final Metrics.Counter REBALANCES = Metrics.counter("streammedian.rebalances");
+
     PriorityQueue<Integer> bigger;
     PriorityQueue<Integer> smaller;
+    private long rebalances; //Number of inserts that had to move a value between the heaps.
 
     /**
      * Default constructor for StreamMedian
@@ -32,9 +38,15 @@ public class StreamMedian {
      * Insert takes in any Integer value, then adds it to the correct heap depending on previously inserted values.
      * Then it corrects for size differential, if needed.
      * Smaller will always contain the odd-numbered digit, otherwise they will be of equal size.
+     * While Metrics are enabled it times the insert and adds any rebalance to the streammedian.rebalances counter.
      * @param i Integer to be inserted
      */
     public void insert(Integer i){
+        boolean metrics = Metrics.isEnabled();
+        MetricsEvent event = metrics ? MetricsEvent.start() : null;
+        long startTime = metrics ? System.nanoTime() : 0;
+        boolean rebalanced = false;
+
         // First we put the element into the correct section.
         if(smaller.isEmpty() || i < smaller.peek()){
             smaller.add(i);
@@ -45,12 +57,64 @@ public class StreamMedian {
          // Then we adjust for the new sizes.
         if(bigger.size() > smaller.size()){
             smaller.add(bigger.remove());
+            rebalanced = true;
         }
         if(smaller.size() > bigger.size()+1){
             bigger.add(smaller.remove());
+            rebalanced = true;
+        }
+
+        if(rebalanced){
+            rebalances++;
+        }
+
+        if(metrics){
+            if(rebalanced){
+                REBALANCES.increment();
+            }
+            INSERT_TIMER.record(startTime, 0, event);
         }
     }
 
+    /**
+     * Returns the number of values in the heap of smaller values.
+     * @return The size of the smaller heap.
+     */
+    public int getSmallerSize(){
+        return smaller.size();
+    }
+
+    /**
+     * Returns the number of values in the heap of bigger values.
+     * @return The size of the bigger heap.
+     */
+    public int getBiggerSize(){
+        return bigger.size();
+    }
+
+    /**
+     * Returns how many inserts into this StreamMedian had to move a value from one heap to the other.
+     * @return The number of rebalances.
+     */
+    public long getRebalanceCount(){
+        return rebalances;
+    }
+
+    /**
+     * Adds the heap sizes and rebalance count of this StreamMedian to the Metrics snapshot,
+     * as streammedian.name.smallerSize, streammedian.name.biggerSize and streammedian.name.rebalances.
+     * Remove them again with Metrics.removeGauges("streammedian." + name + ".").
+     * StreamMedian is not thread safe and the gauges read its heaps unsynchronized, so take the snapshot on the
+     * thread that inserts into this StreamMedian.
+     * @param name The name to report this StreamMedian under.
+     */
+    public void registerMetrics(String name){
+        String prefix = "streammedian." + name + ".";
+        Metrics.gauge(prefix + "smallerSize", this::getSmallerSize);
+        Metrics.gauge(prefix + "biggerSize", this::getBiggerSize);
+        Metrics.gauge(prefix + "rebalances", this::getRebalanceCount);
+    }
+
     /**
      * Returns the median value of heaps.
      * @return The median value of the heaps.
@@ -4,6 +4,13 @@ import java.util.Random;
  * Test program for the StreamMedian class Output from this program should be:
  * 60.0 54.0 48.0 47.5 47.0 47.5 48.0 50.5 48.0 50.5 53.0 53.5 54.0 57.0 60.0
  * 57.0 60.0 60.5 60.0 57.0  *
+ * followed by the heap and metrics checks:
+ * Smaller, bigger, rebalances: 10 10 11
+ * Rebalances counted with Metrics off: 0
+ * Inserts timed with Metrics off: 0
+ * Sorted 1..10 smaller, bigger, rebalances: 5 5 4
+ * Rebalances counted with Metrics on: 4
+ * Inserts timed with Metrics on: 10
  * Note that your instructor will supply a different testing program for grading.
  *
  * @author Stuart Hansen
@@ -12,6 +19,7 @@ import java.util.Random;
 public class TestStreamMedian {
 
     public static void main(String[] args) {
+        Metrics.setEnabled(false);
         StreamMedian sm = new StreamMedian();
         Random random = new Random(0);
         for (int i = 0; i < 20; i++) {
@@ -33,5 +41,24 @@ public class TestStreamMedian {
         }
 
         System.out.println();
+
+        // Heap sizes and rebalances belong to each StreamMedian and are kept whether or not Metrics are on.
+        System.out.println("Smaller, bigger, rebalances: " + sm.getSmallerSize() + " " + sm.getBiggerSize()
+                + " " + sm.getRebalanceCount());
+        System.out.println("Rebalances counted with Metrics off: " + Metrics.counter("streammedian.rebalances").get());
+        System.out.println("Inserts timed with Metrics off: "
+                + Metrics.timer("streammedian.insert").getHistogram().getCount());
+
+        Metrics.setEnabled(true);
+        StreamMedian sorted = new StreamMedian();
+        for (int i = 1; i <= 10; i++) {
+            sorted.insert(i);
+        }
+        Metrics.setEnabled(false);
+        System.out.println("Sorted 1..10 smaller, bigger, rebalances: " + sorted.getSmallerSize() + " "
+                + sorted.getBiggerSize() + " " + sorted.getRebalanceCount());
+        System.out.println("Rebalances counted with Metrics on: " + Metrics.counter("streammedian.rebalances").get());
+        System.out.println("Inserts timed with Metrics on: "
+                + Metrics.timer("streammedian.insert").getHistogram().getCount());
     }
 }
\ No newline at end of file
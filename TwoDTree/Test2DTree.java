@@ -20,9 +20,18 @@ import java.util.ArrayList;
  *
  * All points in range: [java.awt.Point[x=10,y=10], java.awt.Point[x=100,y=5],
  java.awt.Point[x=50,y=3], java.awt.Point[x=110,y=7], java.awt.Point[x=100,y=20]]
+ *
+ * Size, depth, imbalance: 5 3 0
+ * Sorted size, depth, imbalance: 100 100 93
+ *
+ * Nodes visited with Metrics off: 0
+ * Range searches timed with Metrics off: 0
+ * Nodes visited with Metrics on: 16
+ * Range searches timed with Metrics on: 2
  */
 public class Test2DTree {
     public static void main(String[] args) {
+        Metrics.setEnabled(false);
         TwoDTree tree1 = new TwoDTree();
         Point pt1 = new Point(10, 10);
         Point pt2 = new Point(100, 5);
@@ -55,5 +64,25 @@ public class Test2DTree {
         System.out.println();
         ArrayList<Point> list = tree1.searchRange(noPt2, noPt4);
         System.out.println("All points in range: " + list.toString());
+        System.out.println();
+
+        System.out.println("Size, depth, imbalance: " + tree1.getSize() + " " + tree1.getDepth() + " " + tree1.getImbalance());
+        // Sorted points all go right, so the tree is one long chain.
+        TwoDTree sorted = new TwoDTree();
+        for (int i = 0; i < 100; i++) {
+            sorted.insert(new Point(i, i));
+        }
+        System.out.println("Sorted size, depth, imbalance: " + sorted.getSize() + " " + sorted.getDepth() + " " + sorted.getImbalance());
+        System.out.println();
+
+        Metrics.Counter visited = Metrics.counter("twodtree.searchRange.nodesVisited");
+        System.out.println("Nodes visited with Metrics off: " + visited.get());
+        System.out.println("Range searches timed with Metrics off: " + Metrics.timer("twodtree.searchRange").getHistogram().getCount());
+        Metrics.setEnabled(true);
+        tree1.searchRange(noPt2, noPt4);
+        sorted.searchRange(new Point(0, 0), new Point(9, 9));
+        Metrics.setEnabled(false);
+        System.out.println("Nodes visited with Metrics on: " + visited.get());
+        System.out.println("Range searches timed with Metrics on: " + Metrics.timer("twodtree.searchRange").getHistogram().getCount());
     }
 }
\ No newline at end of file
@@ -6,10 +6,19 @@ import java.util.Comparator;
  * This class implements a 2D tree. A 2D tree is a special kind of binary search tree that is used to store a set of points in the plane.
  * The tree is organized such that points that are close to each other are stored in the same area of the tree.
  * This allows for efficient range searching (e.g. finding all the points contained in a given rectangle) and nearest neighbor searching.
+ * Compile with ../Metrics on the source path, see README.md.
  * @author Brandon Murry
  */
 public class TwoDTree {
     TwoDTreeNode root; //Start of the tree.
+    private int size; //Number of points in the tree.
+    private int depth; //Number of levels in the tree, a lone root is depth 1.
+
+    // Metrics, only updated while Metrics are enabled.
+    private static final Metrics.Timer INSERT_TIMER = Metrics.timer("twodtree.insert");
+    private static final Metrics.Timer SEARCH_TIMER = Metrics.timer("twodtree.search");
+    private static final Metrics.Timer SEARCH_RANGE_TIMER = Metrics.timer("twodtree.searchRange");
+    private static final Metrics.Counter RANGE_NODES_VISITED = Metrics.counter("twodtree.searchRange.nodesVisited");
 
     //Comparator for comparing points by their x coordinate.
     private final Comparator<Point> X_COMPARATOR = Comparator.comparingInt(o -> o.x);
@@ -46,19 +55,22 @@ public class TwoDTree {
          * Inserts a new point into the tree. The point is inserted into the left or right subtree depending on the value returned by the comparator.
          * If the point is equal to the point stored in the current node, it is inserted on the left.
          * @param point The point to insert.
+         * @return How many levels below this node the new point was placed, 1 for a direct child.
          */
-        public void insert(Point point) {
+        public int insert(Point point) {
             if (comparator.compare(point, this.point) <= 0) {
                 if (left == null) {
                     left = new TwoDTreeNode(point, comparator == X_COMPARATOR ? Y_COMPARATOR : X_COMPARATOR);
+                    return 1;
                 } else {
-                    left.insert(point);
+                    return 1 + left.insert(point);
                 }
             } else {
                 if (right == null) {
                     right = new TwoDTreeNode(point, comparator == X_COMPARATOR ? Y_COMPARATOR : X_COMPARATOR);
+                    return 1;
                 } else {
-                    right.insert(point);
+                    return 1 + right.insert(point);
                 }
             }
         }
@@ -96,20 +108,23 @@ public class TwoDTree {
          * @param p1 The first corner of the rectangle.
          * @param p2 The second corner of the rectangle.
          * @param points The list of points to add the points that are contained in the rectangle to.
+         * @return The number of nodes visited, counting this one.
          */
-        public void searchRange(Point p1, Point p2, ArrayList<Point> points) {
+        public int searchRange(Point p1, Point p2, ArrayList<Point> points) {
             Point topRight = new Point(Math.max(p1.x, p2.x), Math.max(p1.y, p2.y));
             Point bottomLeft = new Point(Math.min(p1.x, p2.x), Math.min(p1.y, p2.y));
 
             if(topRight.x >= point.x && bottomLeft.x <= point.x && topRight.y >= point.y && bottomLeft.y <= point.y) {
                 points.add(point);
             }
+            int visited = 1;
             if(left != null && comparator.compare(point, bottomLeft) >= 0) {
-                left.searchRange(p1, p2, points);
+                visited += left.searchRange(p1, p2, points);
             }
             if(right != null && comparator.compare(point, topRight) <= 0) {
-                right.searchRange(p1, p2, points);
+                visited += right.searchRange(p1, p2, points);
             }
+            return visited;
         }
     }
 
@@ -135,39 +150,111 @@ public class TwoDTree {
     /**
      * Inserts a new point into the tree. The point is inserted into the left or right subtree depending on the value returned by the comparator.
      * If the point is equal to the point stored in the current node, it is inserted on the left. The comparator is switched each time a new node is created.
+     * While Metrics are enabled the insert is timed.
      * @param p The point to insert.
      */
     public void insert(Point p){
+       boolean metrics = Metrics.isEnabled();
+       MetricsEvent event = metrics ? MetricsEvent.start() : null;
+       long startTime = metrics ? System.nanoTime() : 0;
+
        TwoDTreeNode node = new TwoDTreeNode(p, Y_COMPARATOR);
+         int pointDepth;
          if (root == null) {
              root = node;
+             pointDepth = 1;
          } else {
-             root.insert(p);
+             pointDepth = 1 + root.insert(p);
+         }
+         size++;
+         depth = Math.max(depth, pointDepth);
+
+         if (metrics) {
+             INSERT_TIMER.record(startTime, pointDepth, event);
          }
     }
 
+    /**
+     * Returns the number of points in the tree.
+     * @return The number of points in the tree.
+     */
+    public int getSize(){
+        return size;
+    }
+
+    /**
+     * Returns the depth of the tree, which is the number of nodes on the longest path from the root. An empty tree has depth 0.
+     * @return The depth of the tree.
+     */
+    public int getDepth(){
+        return depth;
+    }
+
+    /**
+     * Returns how many levels deeper the tree is than a perfectly balanced tree with the same number of points.
+     * 0 means the tree is as shallow as it can be; sorted or clustered input pushes it up.
+     * @return The extra levels of the tree.
+     */
+    public int getImbalance(){
+        int balancedDepth = 32 - Integer.numberOfLeadingZeros(size); // floor(log2(size)) + 1
+        return depth - balancedDepth;
+    }
+
+    /**
+     * Adds the size, depth and imbalance of this tree to the Metrics snapshot,
+     * as twodtree.name.size, twodtree.name.depth and twodtree.name.imbalance.
+     * Remove them again with Metrics.removeGauges("twodtree." + name + ".").
+     * TwoDTree is not thread safe and the gauges read its fields unsynchronized, so take the snapshot on the
+     * thread that inserts into this tree.
+     * @param name The name to report this tree under.
+     */
+    public void registerMetrics(String name){
+        String prefix = "twodtree." + name + ".";
+        Metrics.gauge(prefix + "size", this::getSize);
+        Metrics.gauge(prefix + "depth", this::getDepth);
+        Metrics.gauge(prefix + "imbalance", this::getImbalance);
+    }
+
     /**
      * Searches the tree for the given point. Returns true if the point is found, false otherwise.
      * The search is performed by comparing the point to the point stored in the current node.
      * If the point is less than the point stored in the current node, the search is performed on the left subtree.
      * If the point is greater than the point stored in the current node, the search is performed on the right subtree.
+     * While Metrics are enabled the search is timed.
      * @param p The point to search for.
      * @return True if the point is found, false otherwise.
      */
     public boolean search(Point p){
-         return root.search(p);
+         if (!Metrics.isEnabled()) {
+             return root.search(p);
+         }
+         MetricsEvent event = MetricsEvent.start();
+         long startTime = System.nanoTime();
+         boolean found = root.search(p);
+         SEARCH_TIMER.record(startTime, 0, event);
+         return found;
     }
 
     /**
      * Searches the tree for all the points that are contained in the rectangle defined by p1 and p2. The points are added to the given list.
      * The search is performed by comparing the rectangle to the rectangle defined by the point stored in the current node.
+     * While Metrics are enabled it times the search and counts the nodes visited.
      * @param p1 The first point of the rectangle.
      * @param p2 The second point of the rectangle.
      * @return The list of points that are contained in the rectangle defined by p1 and p2.
      */
     public ArrayList<Point> searchRange(Point p1, Point p2){
+            boolean metrics = Metrics.isEnabled();
+            MetricsEvent event = metrics ? MetricsEvent.start() : null;
+            long startTime = metrics ? System.nanoTime() : 0;
+
             ArrayList<Point> points = new ArrayList<>();
-            root.searchRange(p1, p2, points);
+            int visited = root.searchRange(p1, p2, points);
+
+            if (metrics) {
+                RANGE_NODES_VISITED.add(visited);
+                SEARCH_RANGE_TIMER.record(startTime, visited, event);
+            }
             return points;
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+import java.util.HashMap;
+
+/**
+ * This class exercises WordLadder.searchPath and its metrics on a small dictionary, so it needs no word files.
+ *
+ * Output from these tests should be:
+ * Path: cold->cord->word->ward->warm
+ * Expanded, neighbors with Metrics off: 0 0
+ * Searches timed with Metrics off: 0
+ * Path: cold->cord->word->ward->warm
+ * Expanded, neighbors with Metrics on: 7 15
+ * Searches timed with Metrics on: 1
+ * Path: null
+ */
+public class TestWordLadder {
+    private static final String[] WORDS = {"cold", "cord", "card", "ward", "warm", "word", "worm", "wart", "lone"};
+
+    public static void main(String[] args) {
+        Metrics.setEnabled(false);
+        System.out.println("Path: " + path(WordLadder.searchPath(dictionary(), "cold", "warm")));
+        Metrics.Counter expanded = Metrics.counter("wordladder.nodesExpanded");
+        Metrics.Counter neighbors = Metrics.counter("wordladder.neighborsVisited");
+        System.out.println("Expanded, neighbors with Metrics off: " + expanded.get() + " " + neighbors.get());
+        System.out.println("Searches timed with Metrics off: " + Metrics.timer("wordladder.search").getHistogram().getCount());
+
+        Metrics.setEnabled(true);
+        System.out.println("Path: " + path(WordLadder.searchPath(dictionary(), "cold", "warm")));
+        Metrics.setEnabled(false);
+        System.out.println("Expanded, neighbors with Metrics on: " + expanded.get() + " " + neighbors.get());
+        System.out.println("Searches timed with Metrics on: " + Metrics.timer("wordladder.search").getHistogram().getCount());
+
+        // lone has no neighbors, so there is no path to it.
+        System.out.println("Path: " + path(WordLadder.searchPath(dictionary(), "cold", "lone")));
+    }
+
+    /**
+     * Builds a fresh wordlist, since searchPath leaves paths behind on the nodes it reaches.
+     */
+    private static HashMap<String, WordLadder.WordNode> dictionary() {
+        HashMap<String, WordLadder.WordNode> wordlist = new HashMap<>();
+        for (String word : WORDS) {
+            wordlist.put(word, new WordLadder.WordNode(word));
+        }
+        return wordlist;
+    }
+
+    /**
+     * Spells out the ladder ending at the given node, or "null" if there is none.
+     */
+    private static String path(WordLadder.WordNode end) {
+        if (end == null) {
+            return "null";
+        }
+        StringBuilder path = new StringBuilder();
+        for (WordLadder.WordNode node : end.path) {
+            path.append(node.word).append("->");
+        }
+        return path.append(end.word).toString();
+    }
+}
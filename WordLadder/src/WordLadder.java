@@ -9,9 +9,15 @@ import java.util.*;
  * It uses a WordNode class to represent the nodes in the graph.
  * The program reads in a file of words of the same length as the start word.
  * It then searches the graph for the shortest path between the start and end words.
+ * Compile with ../../Metrics on the source path, see README.md.
  * @author Brandon Murry
  */
 public class WordLadder {
+    // Metrics for searchPath, only updated while Metrics are enabled.
+    private static final Metrics.Timer SEARCH_TIMER = Metrics.timer("wordladder.search");
+    private static final Metrics.Counter NODES_EXPANDED = Metrics.counter("wordladder.nodesExpanded");
+    private static final Metrics.Counter NEIGHBORS_VISITED = Metrics.counter("wordladder.neighborsVisited");
+
     public static void main(String[] args) throws Throwable {
         // the words on which the ladder is based
         String start, end;
@@ -116,6 +122,36 @@ public class WordLadder {
             System.exit(1);
         }
 
+        //Search the graph and print the path if there is one.
+        WordNode found = searchPath(wordlist, start, end);
+        if(found != null){
+            System.out.println("Path: ");
+            for(WordNode node : found.path){
+                System.out.print(node.word + "->");
+            }
+            System.out.println(found.word);
+            System.exit(0);
+        }
+        System.out.println("No path found.");
+    }
+
+    /**
+     * This method does the actual breadth first search between the start and end words.
+     * It is split out of breadthFirstSearch so the search can be run without printing or exiting.
+     * Start and end must both be in the wordlist.
+     * While Metrics are enabled it times the search and counts the nodes it expands and the neighbors it visits.
+     * @param wordlist The HashMap of words and their neighbors.
+     * @param start The starting word.
+     * @param end The word to find.
+     * @return The WordNode for end, whose path holds the words leading to it, or null if there is no path.
+     */
+    public static WordNode searchPath(HashMap<String, WordNode> wordlist, String start, String end) {
+        boolean metrics = Metrics.isEnabled();
+        MetricsEvent event = metrics ? MetricsEvent.start() : null;
+        long startTime = metrics ? System.nanoTime() : 0;
+        long expanded = 0;
+        long neighborsVisited = 0;
+
         //Set the neighbors of the start word
         findNeighbors(wordlist, start);
 
@@ -127,15 +163,15 @@ public class WordLadder {
 
         while(!queue.isEmpty()){
             WordNode current = queue.remove();
+            expanded++;
             if(current.word.equals(end)){
-                System.out.println("Path: ");
-                for(WordNode node : current.path){
-                    System.out.print(node.word + "->");
+                if(metrics){
+                    recordSearch(startTime, event, expanded, neighborsVisited);
                 }
-                System.out.println(current.word);
-                System.exit(0);
+                return current;
             }
             for(WordNode neighbor : current.neighbors){
+                neighborsVisited++;
                 if(neighbor.path.isEmpty()){
                     neighbor.path.addAll(current.path);
                     neighbor.path.add(current);
@@ -151,7 +187,23 @@ public class WordLadder {
                 findNeighbors(wordlist, neighbor.word);
             }
         }
-        System.out.println("No path found.");
+        if(metrics){
+            recordSearch(startTime, event, expanded, neighborsVisited);
+        }
+        return null;
+    }
+
+    /**
+     * Helper for searchPath, it records one search in the metrics.
+     * @param startTime The System.nanoTime() when the search started.
+     * @param event The MetricsEvent begun when the search started, null if no recording wants it.
+     * @param expanded The number of nodes taken off the queue.
+     * @param neighborsVisited The number of neighbors looked at.
+     */
+    private static void recordSearch(long startTime, MetricsEvent event, long expanded, long neighborsVisited) {
+        NODES_EXPANDED.add(expanded);
+        NEIGHBORS_VISITED.add(neighborsVisited);
+        SEARCH_TIMER.record(startTime, expanded, event);
     }
 
     /**
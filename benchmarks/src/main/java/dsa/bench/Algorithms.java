@@ -0,0 +1,222 @@
+package dsa.bench;
+
+import java.awt.Point;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Bridge from the benchmarks to the project classes.
+ * The projects live in the default package, which cannot be imported from a named package, and JMH will not
+ * generate code for benchmarks in the default package. Each project method is looked up once into a static final
+ * MethodHandle, which the JIT constant-folds and inlines, so calling through here costs the same as a direct call.
+ * Project objects are passed around as Object.
+ */
+final class Algorithms {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.publicLookup();
+
+    private static final MethodHandle FIND_MEDIAN =
+            findStatic("FindMedian", "findMedian", methodType(double.class, int[].class));
+
+    private static final MethodHandle STREAM_MEDIAN_NEW =
+            constructor("StreamMedian", methodType(void.class));
+    private static final MethodHandle STREAM_MEDIAN_INSERT =
+            findVirtual("StreamMedian", "insert", methodType(void.class, Integer.class));
+    private static final MethodHandle STREAM_MEDIAN_GET_MEDIAN =
+            findVirtual("StreamMedian", "getMedian", methodType(double.class));
+
+    private static final MethodHandle TWO_D_TREE_NEW =
+            constructor("TwoDTree", methodType(void.class));
+    private static final MethodHandle TWO_D_TREE_INSERT =
+            findVirtual("TwoDTree", "insert", methodType(void.class, Point.class));
+    private static final MethodHandle TWO_D_TREE_SEARCH =
+            findVirtual("TwoDTree", "search", methodType(boolean.class, Point.class));
+    private static final MethodHandle TWO_D_TREE_SEARCH_RANGE =
+            findVirtual("TwoDTree", "searchRange", methodType(ArrayList.class, Point.class, Point.class));
+
+    private static final MethodHandle WORD_NODE_NEW =
+            constructor("WordLadder$WordNode", methodType(void.class, String.class));
+    private static final MethodHandle WORD_NODE_PATH =
+            findGetter("WordLadder$WordNode", "path", ArrayList.class);
+    private static final MethodHandle WORD_LADDER_SEARCH_PATH =
+            findStatic("WordLadder", "searchPath",
+                    methodType(load("WordLadder$WordNode"), HashMap.class, String.class, String.class));
+
+    private Algorithms() {
+    }
+
+    /** Calls FindMedian.findMedian. The array is partitioned in place. */
+    static double findMedian(int[] array) {
+        try {
+            return (double) FIND_MEDIAN.invokeExact(array);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** Calls new StreamMedian(). */
+    static Object newStreamMedian() {
+        try {
+            return (Object) STREAM_MEDIAN_NEW.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** Calls StreamMedian.insert. */
+    static void insert(Object streamMedian, Integer value) {
+        try {
+            STREAM_MEDIAN_INSERT.invokeExact(streamMedian, value);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** Calls StreamMedian.getMedian. */
+    static double getMedian(Object streamMedian) {
+        try {
+            return (double) STREAM_MEDIAN_GET_MEDIAN.invokeExact(streamMedian);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** Calls new TwoDTree(). */
+    static Object newTwoDTree() {
+        try {
+            return (Object) TWO_D_TREE_NEW.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** Calls TwoDTree.insert. */
+    static void insert(Object tree, Point p) {
+        try {
+            TWO_D_TREE_INSERT.invokeExact(tree, p);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** Calls TwoDTree.search. */
+    static boolean search(Object tree, Point p) {
+        try {
+            return (boolean) TWO_D_TREE_SEARCH.invokeExact(tree, p);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** Calls TwoDTree.searchRange. */
+    static ArrayList<?> searchRange(Object tree, Point p1, Point p2) {
+        try {
+            return (ArrayList<?>) TWO_D_TREE_SEARCH_RANGE.invokeExact(tree, p1, p2);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** Calls new WordLadder.WordNode(word). */
+    static Object newWordNode(String word) {
+        try {
+            return (Object) WORD_NODE_NEW.invokeExact(word);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** Reads WordLadder.WordNode.path, the list of words searchPath found leading to the node. */
+    static ArrayList<?> wordNodePath(Object wordNode) {
+        try {
+            return (ArrayList<?>) WORD_NODE_PATH.invokeExact(wordNode);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /** Calls WordLadder.searchPath. Returns the end WordNode, or null if there is no path. */
+    static Object searchPath(HashMap<String, Object> wordlist, String start, String end) {
+        try {
+            return (Object) WORD_LADDER_SEARCH_PATH.invokeExact(wordlist, start, end);
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private static Class<?> load(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Project class " + name + " is not on the classpath", e);
+        }
+    }
+
+    private static MethodHandle findStatic(String owner, String name, MethodType type) {
+        try {
+            MethodHandle handle = LOOKUP.findStatic(load(owner), name, type);
+            return handle.asType(erase(type));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot find " + owner + "." + name, e);
+        }
+    }
+
+    private static MethodHandle findVirtual(String owner, String name, MethodType type) {
+        try {
+            MethodHandle handle = LOOKUP.findVirtual(load(owner), name, type);
+            return handle.asType(erase(type).insertParameterTypes(0, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot find " + owner + "." + name, e);
+        }
+    }
+
+    private static MethodHandle findGetter(String owner, String name, Class<?> type) {
+        try {
+            MethodHandle handle = LOOKUP.findGetter(load(owner), name, type);
+            return handle.asType(methodType(type, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot find " + owner + "." + name, e);
+        }
+    }
+
+    private static MethodHandle constructor(String owner, MethodType type) {
+        try {
+            MethodHandle handle = LOOKUP.findConstructor(load(owner), type);
+            return handle.asType(erase(type).changeReturnType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot find constructor of " + owner, e);
+        }
+    }
+
+    /** Replaces project types (those in the default package) with Object so callers can invokeExact. */
+    private static MethodType erase(MethodType type) {
+        MethodType erased = type;
+        if (isProjectType(type.returnType())) {
+            erased = erased.changeReturnType(Object.class);
+        }
+        for (int i = 0; i < type.parameterCount(); i++) {
+            if (isProjectType(type.parameterType(i))) {
+                erased = erased.changeParameterType(i, Object.class);
+            }
+        }
+        return erased;
+    }
+
+    private static boolean isProjectType(Class<?> type) {
+        return !type.isPrimitive() && !type.isArray() && type.getPackageName().isEmpty();
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IllegalStateException(t);
+    }
+}
@@ -0,0 +1,54 @@
+package dsa.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar. Takes the usual JMH command line and adds two defaults:
+ * the GC profiler, so every run reports allocation rate and GC counts next to the timings,
+ * and a JSON result file, so a run can be compared against benchmarks/baseline/baseline.json.
+ * Passing -prof or -rf/-rff on the command line replaces the matching default.
+ *
+ * Typical runs, from the repository root after "mvn package":
+ *   java -jar benchmarks/target/benchmarks.jar                              everything
+ *   java -jar benchmarks/target/benchmarks.jar FindMedian -p size=1000,100000
+ *   java -jar benchmarks/target/benchmarks.jar -rff new.json                then compare new.json with the baseline
+ *   java -jar benchmarks/target/benchmarks.jar TwoDTree -jvmArgsAppend -Ddsa.metrics=true   cost of the metrics layer
+ *
+ * The baseline was recorded on one core in a single plain run, "java -jar benchmarks/target/benchmarks.jar", so
+ * every row uses its class's default forks, iterations and parameters. Rows whose 99.9% error came out above 10% of
+ * the score were dropped as too noisy to compare against. Rerun with the defaults when comparing against it, and
+ * rerecord it on the new machine before comparing anywhere else.
+ */
+public final class BenchmarkRunner {
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            // Nothing to add to the informational commands, let JMH handle them.
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result(DEFAULT_RESULT_FILE);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,50 @@
+package dsa.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times FindMedian.findMedian on the ADVERSARIAL input, where every value is equal.
+ * The current partition only moves values strictly less than the pivot, so on this input each pass removes just
+ * the pivot and the select takes about n^2/2 steps. Sizes stop at 100K, which already takes over a second per
+ * call; at 100M it would need about 5e15 steps. Compare these rows against FindMedianBenchmark to see how far a
+ * partition fix closes the gap.
+ * As there, every call copies the pristine input into a scratch array first and the copy is timed too.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(5)
+@State(Scope.Thread)
+public class FindMedianAdversarialBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private int[] input;
+    private int[] scratch;
+
+    @Setup
+    public void setUp() {
+        input = FindMedianBenchmark.generate(FindMedianBenchmark.Distribution.ADVERSARIAL, size, 10);
+        scratch = new int[size];
+    }
+
+    @Benchmark
+    public double findMedian() {
+        System.arraycopy(input, 0, scratch, 0, size);
+        return Algorithms.findMedian(scratch);
+    }
+}
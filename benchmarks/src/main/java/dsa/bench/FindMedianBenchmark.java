@@ -0,0 +1,97 @@
+package dsa.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times FindMedian.findMedian on 1K to 100M ints of well-behaved input.
+ * The quadratic DUPLICATES and ADVERSARIAL inputs are timed separately, at smaller sizes,
+ * by FindMedianDuplicatesBenchmark and FindMedianAdversarialBenchmark.
+ * findMedian partitions the array in place, so every call first copies the pristine input into a scratch array.
+ * The copy is part of the measured time; it is linear like the select itself and costs the same in every run,
+ * so it does not hide changes to findMedian.
+ * The 100M case holds two 400MB arrays, so the fork gets a fixed 2g heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 5, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Thread)
+public class FindMedianBenchmark {
+
+    /**
+     * The shapes of input we time.
+     * DUPLICATES and ADVERSARIAL are quadratic in the current partition, which only moves values strictly less
+     * than the pivot, so each has its own benchmark class with sizes it can finish.
+     */
+    public enum Distribution {
+        /** Uniform random values below 2^30, so averaging the two middle values cannot overflow. */
+        UNIFORM,
+        /** Already sorted ascending. */
+        SORTED,
+        /** Uniform random values from only 100 distinct keys. */
+        DUPLICATES,
+        /** Every value equal, the worst case for a strict less-than partition. */
+        ADVERSARIAL
+    }
+
+    @Param({"1000", "100000", "10000000", "100000000"})
+    public int size;
+
+    @Param({"UNIFORM", "SORTED"})
+    public Distribution distribution;
+
+    private int[] input;
+    private int[] scratch;
+
+    @Setup
+    public void setUp() {
+        input = generate(distribution, size, 10);
+        scratch = new int[size];
+    }
+
+    @Benchmark
+    public double findMedian() {
+        System.arraycopy(input, 0, scratch, 0, size);
+        return Algorithms.findMedian(scratch);
+    }
+
+    static int[] generate(Distribution distribution, int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] array = new int[size];
+        switch (distribution) {
+            case UNIFORM -> {
+                for (int i = 0; i < size; i++) {
+                    array[i] = random.nextInt(1 << 30);
+                }
+            }
+            case SORTED -> {
+                for (int i = 0; i < size; i++) {
+                    array[i] = random.nextInt(1 << 30);
+                }
+                Arrays.sort(array);
+            }
+            case DUPLICATES -> {
+                for (int i = 0; i < size; i++) {
+                    array[i] = random.nextInt(100);
+                }
+            }
+            case ADVERSARIAL -> Arrays.fill(array, 42);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,51 @@
+package dsa.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times FindMedian.findMedian on the DUPLICATES input, uniform values from only 100 distinct keys.
+ * The current partition only moves values strictly less than the pivot, so once the select has narrowed down to
+ * the copies of the median's key it removes one copy per pass. That makes it quadratic in the about n/100 copies
+ * of one key rather than in n: around 5e9 steps, a few seconds per call, at 10M. Sizes stop there; 100M would take
+ * about a hundred times longer. Compare these rows against FindMedianBenchmark to see how far a partition fix
+ * closes the gap.
+ * As there, every call copies the pristine input into a scratch array first and the copy is timed too.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(5)
+@State(Scope.Thread)
+public class FindMedianDuplicatesBenchmark {
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private int[] input;
+    private int[] scratch;
+
+    @Setup
+    public void setUp() {
+        input = FindMedianBenchmark.generate(FindMedianBenchmark.Distribution.DUPLICATES, size, 10);
+        scratch = new int[size];
+    }
+
+    @Benchmark
+    public double findMedian() {
+        System.arraycopy(input, 0, scratch, 0, size);
+        return Algorithms.findMedian(scratch);
+    }
+}
@@ -0,0 +1,90 @@
+package dsa.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of StreamMedian.insert and getMedian.
+ * The stream benchmarks feed a whole stream into a fresh StreamMedian, so their scores are per stream; divide by
+ * streamLength for the cost of one element. insertAndGetMedian reads the median after every insert, the way a
+ * running median is used.
+ * SORTED input sends every new value to the bigger heap, so the heaps are rebalanced on every other insert.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(5)
+@State(Scope.Thread)
+public class StreamMedianBenchmark {
+
+    public enum Distribution {
+        /** Uniform random values. */
+        UNIFORM,
+        /** Strictly increasing values. */
+        SORTED
+    }
+
+    @Param({"1000", "100000", "1000000"})
+    public int streamLength;
+
+    @Param({"UNIFORM", "SORTED"})
+    public Distribution distribution;
+
+    private Integer[] stream;
+
+    /** A StreamMedian already holding the whole stream, for timing getMedian alone. */
+    private Object filled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(0);
+        stream = new Integer[streamLength];
+        for (int i = 0; i < streamLength; i++) {
+            // Boxed up front so the benchmark does not time Integer.valueOf.
+            stream[i] = distribution == Distribution.SORTED ? i : random.nextInt(1000000);
+        }
+        filled = Algorithms.newStreamMedian();
+        for (Integer value : stream) {
+            Algorithms.insert(filled, value);
+        }
+    }
+
+    @Benchmark
+    public void insertAndGetMedian(Blackhole blackhole) {
+        Object streamMedian = Algorithms.newStreamMedian();
+        for (Integer value : stream) {
+            Algorithms.insert(streamMedian, value);
+            blackhole.consume(Algorithms.getMedian(streamMedian));
+        }
+    }
+
+    @Benchmark
+    public void insert(Blackhole blackhole) {
+        Object streamMedian = Algorithms.newStreamMedian();
+        for (Integer value : stream) {
+            Algorithms.insert(streamMedian, value);
+        }
+        blackhole.consume(streamMedian);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double getMedian() {
+        return Algorithms.getMedian(filled);
+    }
+}
@@ -0,0 +1,123 @@
+package dsa.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TwoDTree insert, search and searchRange on uniform and clustered points in a 1M by 1M square.
+ * insert builds a whole tree of the given size, so its score is per tree.
+ * search and searchRange cycle through a fixed set of queries against a tree built once per trial.
+ * Half of the search queries are points in the tree and the rest are fresh random points, which almost always miss.
+ * Each range query covers 1/1024 of the square.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(5)
+@State(Scope.Thread)
+public class TwoDTreeBenchmark {
+    private static final int SPACE = 1_000_000;
+    private static final int RANGE_SIDE = SPACE / 32;
+    private static final int CLUSTERS = 10;
+    private static final double CLUSTER_SPREAD = 5_000;
+    private static final int QUERIES = 1024; // power of two so the cursor can wrap with a mask
+
+    public enum Distribution {
+        /** Points spread evenly over the square. */
+        UNIFORM,
+        /** Points in a few tight gaussian clusters. */
+        CLUSTERED
+    }
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    @Param({"UNIFORM", "CLUSTERED"})
+    public Distribution distribution;
+
+    private Point[] points;
+    private Object tree;
+    private Point[] searchQueries;
+    private Point[] rangeLow;
+    private Point[] rangeHigh;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(0);
+        Point[] centers = new Point[CLUSTERS];
+        for (int i = 0; i < CLUSTERS; i++) {
+            centers[i] = new Point(random.nextInt(SPACE), random.nextInt(SPACE));
+        }
+
+        points = new Point[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = nextPoint(random, centers);
+        }
+        tree = Algorithms.newTwoDTree();
+        for (Point p : points) {
+            Algorithms.insert(tree, p);
+        }
+
+        searchQueries = new Point[QUERIES];
+        rangeLow = new Point[QUERIES];
+        rangeHigh = new Point[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            searchQueries[i] = i % 2 == 0 ? points[random.nextInt(size)] : nextPoint(random, centers);
+            // Center range queries on the data so clustered queries do not all come back empty.
+            Point center = points[random.nextInt(size)];
+            rangeLow[i] = new Point(center.x - RANGE_SIDE / 2, center.y - RANGE_SIDE / 2);
+            rangeHigh[i] = new Point(center.x + RANGE_SIDE / 2, center.y + RANGE_SIDE / 2);
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object insert() {
+        Object built = Algorithms.newTwoDTree();
+        for (Point p : points) {
+            Algorithms.insert(built, p);
+        }
+        return built;
+    }
+
+    @Benchmark
+    public boolean search() {
+        int i = cursor++ & (QUERIES - 1);
+        return Algorithms.search(tree, searchQueries[i]);
+    }
+
+    @Benchmark
+    public ArrayList<?> searchRange() {
+        int i = cursor++ & (QUERIES - 1);
+        return Algorithms.searchRange(tree, rangeLow[i], rangeHigh[i]);
+    }
+
+    private Point nextPoint(SplittableRandom random, Point[] centers) {
+        if (distribution == Distribution.UNIFORM) {
+            return new Point(random.nextInt(SPACE), random.nextInt(SPACE));
+        }
+        Point center = centers[random.nextInt(CLUSTERS)];
+        return new Point(clamp(center.x + random.nextGaussian() * CLUSTER_SPREAD),
+                clamp(center.y + random.nextGaussian() * CLUSTER_SPREAD));
+    }
+
+    private static int clamp(double value) {
+        return (int) Math.max(0, Math.min(SPACE - 1, value));
+    }
+}
@@ -0,0 +1,147 @@
+package dsa.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WordLadder.searchPath over every dictionary that ships with WordLadder.
+ * For each dictionary the ladder runs across the largest connected group of words, from its first word to the word
+ * furthest from it, so the search has to expand the whole group before it finds the end.
+ * searchPath leaves a path on every node it reaches and relies on those paths starting empty, so each call first
+ * clears the paths in that group. That is one list clear per node, tiny next to the search itself, and it keeps
+ * the per-call setup out of JMH's Level.Invocation, which is unreliable for calls this short.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(5)
+@State(Scope.Thread)
+public class WordLadderBenchmark {
+    @Param({"words.3", "words.4", "words.5", "words.6", "words.7", "words.8.8", "words.9.9"})
+    public String dictionary;
+
+    private String start;
+    private String end;
+    private HashMap<String, Object> wordlist;
+    private Object[] group; // the nodes searchPath can reach from start
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> words = readWords(dictionary);
+        List<String> largest = largestGroup(words);
+        start = largest.get(0);
+        end = largest.get(largest.size() - 1);
+
+        wordlist = new HashMap<>(words.size() * 2);
+        for (String word : words) {
+            wordlist.put(word, Algorithms.newWordNode(word));
+        }
+        group = new Object[largest.size()];
+        for (int i = 0; i < group.length; i++) {
+            group[i] = wordlist.get(largest.get(i));
+        }
+    }
+
+    @Benchmark
+    public Object searchPath() {
+        for (Object node : group) {
+            Algorithms.wordNodePath(node).clear();
+        }
+        return Algorithms.searchPath(wordlist, start, end);
+    }
+
+    private static List<String> readWords(String dictionary) throws IOException {
+        InputStream in = WordLadderBenchmark.class.getResourceAsStream("/words/" + dictionary);
+        if (in == null) {
+            throw new IOException("Dictionary " + dictionary + " is not on the classpath");
+        }
+        List<String> words = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty()) {
+                    words.add(line);
+                }
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Finds the largest group of words connected by one-letter changes.
+     * The group is returned in breadth first order from its first word, so the last word is the furthest from it.
+     */
+    private List<String> largestGroup(List<String> words) {
+        Set<String> dictionaryWords = new HashSet<>(words);
+        Set<String> grouped = new HashSet<>();
+        List<String> largest = List.of();
+        for (String word : words) {
+            if (grouped.contains(word)) {
+                continue;
+            }
+            List<String> group = reachable(dictionaryWords, word);
+            grouped.addAll(group);
+            if (group.size() > largest.size()) {
+                largest = group;
+            }
+        }
+        if (largest.size() < 2) {
+            throw new IllegalStateException("No ladder found in " + dictionary);
+        }
+        return largest;
+    }
+
+    /** The words reachable from start, in breadth first order. */
+    private static List<String> reachable(Set<String> dictionaryWords, String start) {
+        List<String> order = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        Queue<String> queue = new ArrayDeque<>();
+        queue.add(start);
+        seen.add(start);
+        while (!queue.isEmpty()) {
+            String current = queue.remove();
+            order.add(current);
+            char[] letters = current.toCharArray();
+            for (int i = 0; i < letters.length; i++) {
+                char original = letters[i];
+                for (char c = 'a'; c <= 'z'; c++) {
+                    if (c == original) {
+                        continue;
+                    }
+                    letters[i] = c;
+                    String next = new String(letters);
+                    if (dictionaryWords.contains(next) && seen.add(next)) {
+                        queue.add(next);
+                    }
+                }
+                letters[i] = original;
+            }
+        }
+        return order;
+    }
+}